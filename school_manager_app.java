@@ -1,16 +1,125 @@
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 
 // Database connection utility class
 class DatabaseConnection {
-    private static final String URL = "jdbc:sqlite:school.db";
-    private static Connection connection;
+    private static volatile String url = "jdbc:sqlite:school.db";
+    
+    // Each thread gets its own connection, and with it its own transaction state.
+    // WAL lets readers run alongside the single writer; busy_timeout makes other
+    // writers wait for the write lock instead of failing.
+    private static final ThreadLocal<Connection> connection = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> pendingAfterCommit = new ThreadLocal<>();
+    private static final Set<Connection> openConnections = ConcurrentHashMap.newKeySet();
+    
+    // Held across each commit and its after-commit actions, so those actions run
+    // in commit order and never interleave with another transaction's
+    private static final ReentrantLock commitLock = new ReentrantLock();
+    
+    // Unit of work run inside a transaction
+    interface SqlWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
     
     public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(URL);
+        Connection conn = connection.get();
+        if (conn == null || conn.isClosed()) {
+            Properties props = new Properties();
+            props.setProperty("journal_mode", "WAL");
+            props.setProperty("busy_timeout", "10000");
+            conn = DriverManager.getConnection(url, props);
+            connection.set(conn);
+            openConnections.add(conn);
+        }
+        return conn;
+    }
+    
+    // Closes the calling thread's connection, if it has one
+    public static void closeConnection() throws SQLException {
+        Connection conn = connection.get();
+        connection.remove();
+        if (conn != null) {
+            openConnections.remove(conn);
+            conn.close();
+        }
+    }
+    
+    // Points the application at a different database, closing every open connection.
+    // Only call this while no other thread is using the database.
+    public static synchronized void setUrl(String newUrl) throws SQLException {
+        for (Connection conn : openConnections) {
+            conn.close();
+        }
+        openConnections.clear();
+        connection.remove();
+        url = newUrl;
+    }
+    
+    // Runs the work as a single transaction on the calling thread's connection,
+    // rolling back if it throws. Nested calls join the enclosing transaction.
+    // BEGIN IMMEDIATE takes the write lock up front. Transactions are issued as
+    // plain statements because the driver's commit() immediately begins the
+    // next transaction, which would take the write lock again while commitLock is held.
+    public static <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        Connection conn = getConnection();
+        if (pendingAfterCommit.get() != null) {
+            return work.run(conn);
+        }
+        execute(conn, "BEGIN IMMEDIATE");
+        List<Runnable> actions = new ArrayList<>();
+        pendingAfterCommit.set(actions);
+        boolean committed = false;
+        try {
+            T result = work.run(conn);
+            commitLock.lock();
+            try {
+                execute(conn, "COMMIT");
+                committed = true;
+                pendingAfterCommit.remove();
+                actions.forEach(Runnable::run);
+            } finally {
+                commitLock.unlock();
+            }
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            if (!committed) {
+                execute(conn, "ROLLBACK");
+            }
+            throw e;
+        } finally {
+            pendingAfterCommit.remove();
+        }
+    }
+    
+    private static void execute(Connection conn, String sql) throws SQLException {
+        Statement stmt = conn.createStatement();
+        stmt.execute(sql);
+        stmt.close();
+    }
+    
+    // Runs the action once the current transaction commits (dropped on rollback),
+    // or immediately when no transaction is open
+    public static void afterCommit(Runnable action) {
+        List<Runnable> actions = pendingAfterCommit.get();
+        if (actions != null) {
+            actions.add(action);
+            return;
+        }
+        commitLock.lock();
+        try {
+            action.run();
+        } finally {
+            commitLock.unlock();
         }
-        return connection;
     }
     
     public static void initializeDatabase() throws SQLException {
@@ -62,8 +171,295 @@ class DatabaseConnection {
             )
         """);
         
+        // Materialized dashboard aggregates
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS dashboard_summary (
+                id INTEGER PRIMARY KEY CHECK (id = 1),
+                student_count INTEGER NOT NULL,
+                teacher_count INTEGER NOT NULL,
+                section_count INTEGER NOT NULL,
+                gpa_sum REAL NOT NULL,
+                gpa_count INTEGER NOT NULL
+            )
+        """);
+        
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS section_enrollment_counts (
+                section_id INTEGER PRIMARY KEY,
+                student_count INTEGER NOT NULL,
+                FOREIGN KEY (section_id) REFERENCES class_sections(id)
+            )
+        """);
+        
+        stmt.close();
+        
+        DashboardStats.load();
+    }
+}
+
+// Materialized aggregate counters for the dashboard.
+// Kept in memory and mirrored to dashboard_summary / section_enrollment_counts,
+// so reads never touch the base tables.
+class DashboardStats {
+    private static final LongAdder studentCount = new LongAdder();
+    private static final LongAdder teacherCount = new LongAdder();
+    private static final LongAdder sectionCount = new LongAdder();
+    private static final DoubleAdder gpaSum = new DoubleAdder();
+    private static final LongAdder gpaCount = new LongAdder();
+    private static final Map<Integer, LongAdder> sectionEnrollment = new ConcurrentHashMap<>();
+    
+    // Reads (O(1), in memory only)
+    public static long getStudentCount() { return studentCount.sum(); }
+    public static long getTeacherCount() { return teacherCount.sum(); }
+    public static long getSectionCount() { return sectionCount.sum(); }
+    public static double getGpaSum() { return gpaSum.sum(); }
+    public static long getGpaCount() { return gpaCount.sum(); }
+    
+    public static double getAverageGpa() {
+        long count = gpaCount.sum();
+        return count == 0 ? 0 : gpaSum.sum() / count;
+    }
+    
+    public static long getEnrollment(int sectionId) {
+        LongAdder adder = sectionEnrollment.get(sectionId);
+        return adder == null ? 0 : adder.sum();
+    }
+    
+    public static Map<Integer, Long> getEnrollments() {
+        Map<Integer, Long> enrollments = new TreeMap<>();
+        sectionEnrollment.forEach((sectionId, adder) -> enrollments.put(sectionId, adder.sum()));
+        return enrollments;
+    }
+    
+    // Per-section enrollment computed from the base tables, counting only existing students
+    private static final String ENROLLMENT_BY_SECTION = """
+        SELECT cs.id AS section_id, COUNT(s.id) AS student_count FROM class_sections cs
+        LEFT JOIN section_students ss ON cs.id = ss.section_id
+        LEFT JOIN students s ON s.id = ss.student_id
+        GROUP BY cs.id
+    """;
+    
+    // Persisted summary values, read in one transaction and applied to the counters together
+    private record Summary(long students, long teachers, long sections, double gpaSum, long gpaCount,
+                           Map<Integer, Long> enrollments) {}
+    
+    // Loads the persisted summary, rebuilding it from the base tables if it is
+    // missing or no longer matches them
+    public static void load() throws SQLException {
+        if (!isConsistent()) {
+            rebuild();
+            return;
+        }
+        DatabaseConnection.inTransaction(conn -> {
+            Summary summary = readSummary(conn);
+            DatabaseConnection.afterCommit(() -> apply(summary));
+            return null;
+        });
+    }
+    
+    // Startup check of the persisted summary against the base tables
+    private static boolean isConsistent() throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+        Statement stmt = conn.createStatement();
+        ResultSet rs = stmt.executeQuery("""
+            SELECT student_count = (SELECT COUNT(*) FROM students)
+               AND teacher_count = (SELECT COUNT(*) FROM teachers)
+               AND section_count = (SELECT COUNT(*) FROM class_sections)
+               AND gpa_count = (SELECT COUNT(gpa) FROM students)
+               AND ABS(gpa_sum - (SELECT COALESCE(SUM(gpa), 0) FROM students)) < 0.01
+               AND NOT EXISTS (
+                   SELECT section_id, student_count FROM section_enrollment_counts
+                   EXCEPT %s
+               )
+               AND NOT EXISTS (
+                   %s
+                   EXCEPT SELECT section_id, student_count FROM section_enrollment_counts
+               ) AS consistent
+            FROM dashboard_summary WHERE id = 1
+        """.formatted(ENROLLMENT_BY_SECTION, ENROLLMENT_BY_SECTION));
+        
+        boolean consistent = rs.next() && rs.getBoolean("consistent");
+        
+        stmt.close();
+        return consistent;
+    }
+    
+    private static Summary readSummary(Connection conn) throws SQLException {
+        Statement stmt = conn.createStatement();
+        ResultSet rs = stmt.executeQuery("SELECT * FROM dashboard_summary WHERE id = 1");
+        if (!rs.next()) {
+            stmt.close();
+            throw new SQLException("dashboard_summary has no row");
+        }
+        long students = rs.getLong("student_count");
+        long teachers = rs.getLong("teacher_count");
+        long sections = rs.getLong("section_count");
+        double gpaTotal = rs.getDouble("gpa_sum");
+        long gpaRows = rs.getLong("gpa_count");
+        
+        Map<Integer, Long> enrollments = new HashMap<>();
+        rs = stmt.executeQuery("SELECT * FROM section_enrollment_counts");
+        while (rs.next()) {
+            enrollments.put(rs.getInt("section_id"), rs.getLong("student_count"));
+        }
+        
+        stmt.close();
+        return new Summary(students, teachers, sections, gpaTotal, gpaRows, enrollments);
+    }
+    
+    // Moves each counter straight to its new value, so readers never see a zeroed state.
+    // Runs as an after-commit action. DatabaseConnection runs those one commit at a time,
+    // and the summary was read under this transaction's write lock, so no other counter
+    // update can land between the read and here.
+    private static void apply(Summary summary) {
+        setTo(studentCount, summary.students());
+        setTo(teacherCount, summary.teachers());
+        setTo(sectionCount, summary.sections());
+        setTo(gpaCount, summary.gpaCount());
+        gpaSum.add(summary.gpaSum() - gpaSum.sum());
+        
+        sectionEnrollment.keySet().retainAll(summary.enrollments().keySet());
+        summary.enrollments().forEach((sectionId, count) -> setTo(enrollmentCounter(sectionId), count));
+    }
+    
+    private static void setTo(LongAdder adder, long value) {
+        adder.add(value - adder.sum());
+    }
+    
+    // Recomputes every aggregate from the base tables and rewrites the summary
+    public static void rebuild() throws SQLException {
+        DatabaseConnection.inTransaction(conn -> {
+            writeSummary(conn);
+            Summary summary = readSummary(conn);
+            DatabaseConnection.afterCommit(() -> apply(summary));
+            return null;
+        });
+    }
+    
+    private static void writeSummary(Connection conn) throws SQLException {
+        Statement stmt = conn.createStatement();
+        
+        stmt.executeUpdate("DELETE FROM dashboard_summary");
+        stmt.executeUpdate("""
+            INSERT INTO dashboard_summary (id, student_count, teacher_count, section_count, gpa_sum, gpa_count)
+            SELECT 1,
+                   (SELECT COUNT(*) FROM students),
+                   (SELECT COUNT(*) FROM teachers),
+                   (SELECT COUNT(*) FROM class_sections),
+                   (SELECT COALESCE(SUM(gpa), 0) FROM students),
+                   (SELECT COUNT(gpa) FROM students)
+        """);
+        
+        stmt.executeUpdate("DELETE FROM section_enrollment_counts");
+        stmt.executeUpdate("INSERT INTO section_enrollment_counts (section_id, student_count) " + ENROLLMENT_BY_SECTION);
+        
+        stmt.close();
+    }
+    
+    // Write hooks, called by the model classes inside the transaction that made the change.
+    // The summary tables are updated in that transaction; the in-memory counters only once it commits.
+    public static void studentAdded(double gpa) throws SQLException {
+        updateSummary("student_count = student_count + 1, gpa_sum = gpa_sum + ?, gpa_count = gpa_count + 1", gpa);
+        DatabaseConnection.afterCommit(() -> {
+            studentCount.increment();
+            gpaSum.add(gpa);
+            gpaCount.increment();
+        });
+    }
+    
+    public static void studentGpaChanged(double oldGpa, double newGpa) throws SQLException {
+        if (oldGpa == newGpa) {
+            return;
+        }
+        updateSummary("gpa_sum = gpa_sum + ?", newGpa - oldGpa);
+        DatabaseConnection.afterCommit(() -> gpaSum.add(newGpa - oldGpa));
+    }
+    
+    public static void studentRemoved(double gpa) throws SQLException {
+        updateSummary("student_count = student_count - 1, gpa_sum = gpa_sum - ?, gpa_count = gpa_count - 1", gpa);
+        DatabaseConnection.afterCommit(() -> {
+            studentCount.decrement();
+            gpaSum.add(-gpa);
+            gpaCount.decrement();
+        });
+    }
+    
+    public static void teacherAdded() throws SQLException {
+        updateSummary("teacher_count = teacher_count + 1");
+        DatabaseConnection.afterCommit(teacherCount::increment);
+    }
+    
+    public static void teacherRemoved() throws SQLException {
+        updateSummary("teacher_count = teacher_count - 1");
+        DatabaseConnection.afterCommit(teacherCount::decrement);
+    }
+    
+    public static void sectionAdded(int sectionId) throws SQLException {
+        updateSummary("section_count = section_count + 1");
+        setEnrollment(sectionId, 0);
+        DatabaseConnection.afterCommit(sectionCount::increment);
+    }
+    
+    public static void sectionRemoved(int sectionId) throws SQLException {
+        updateSummary("section_count = section_count - 1");
+        
+        Connection conn = DatabaseConnection.getConnection();
+        PreparedStatement stmt = conn.prepareStatement("DELETE FROM section_enrollment_counts WHERE section_id = ?");
+        stmt.setInt(1, sectionId);
+        stmt.executeUpdate();
+        stmt.close();
+        
+        DatabaseConnection.afterCommit(() -> {
+            sectionCount.decrement();
+            sectionEnrollment.remove(sectionId);
+        });
+    }
+    
+    public static void setEnrollment(int sectionId, long count) throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(
+            "INSERT OR REPLACE INTO section_enrollment_counts (section_id, student_count) VALUES (?, ?)"
+        );
+        stmt.setInt(1, sectionId);
+        stmt.setLong(2, count);
+        stmt.executeUpdate();
+        stmt.close();
+        
+        DatabaseConnection.afterCommit(() -> setTo(enrollmentCounter(sectionId), count));
+    }
+    
+    public static void adjustEnrollment(int sectionId, long delta) throws SQLException {
+        if (delta == 0) {
+            return;
+        }
+        Connection conn = DatabaseConnection.getConnection();
+        PreparedStatement stmt = conn.prepareStatement("""
+            INSERT INTO section_enrollment_counts (section_id, student_count) VALUES (?, ?)
+            ON CONFLICT(section_id) DO UPDATE SET student_count = student_count + excluded.student_count
+        """);
+        stmt.setInt(1, sectionId);
+        stmt.setLong(2, delta);
+        stmt.executeUpdate();
+        stmt.close();
+        
+        DatabaseConnection.afterCommit(() -> enrollmentCounter(sectionId).add(delta));
+    }
+    
+    private static void updateSummary(String assignments, double... params) throws SQLException {
+        Connection conn = DatabaseConnection.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(
+            "UPDATE dashboard_summary SET " + assignments + " WHERE id = 1"
+        );
+        for (int i = 0; i < params.length; i++) {
+            stmt.setDouble(i + 1, params[i]);
+        }
+        stmt.executeUpdate();
         stmt.close();
     }
+    
+    private static LongAdder enrollmentCounter(int sectionId) {
+        return sectionEnrollment.computeIfAbsent(sectionId, k -> new LongAdder());
+    }
 }
 
 // Student class
@@ -93,33 +489,55 @@ class Student {
     
     // Database operations
     public void save() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
-        if (id == 0) {
-            // Insert new student
-            PreparedStatement stmt = conn.prepareStatement(
-                "INSERT INTO students (name, gpa) VALUES (?, ?)",
-                Statement.RETURN_GENERATED_KEYS
-            );
-            stmt.setString(1, name);
-            stmt.setDouble(2, gpa);
-            stmt.executeUpdate();
-            
-            ResultSet keys = stmt.getGeneratedKeys();
-            if (keys.next()) {
-                this.id = keys.getInt(1);
+        DatabaseConnection.inTransaction(conn -> {
+            if (id == 0) {
+                // Insert new student
+                PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO students (name, gpa) VALUES (?, ?)",
+                    Statement.RETURN_GENERATED_KEYS
+                );
+                stmt.setString(1, name);
+                stmt.setDouble(2, gpa);
+                stmt.executeUpdate();
+                
+                ResultSet keys = stmt.getGeneratedKeys();
+                if (keys.next()) {
+                    this.id = keys.getInt(1);
+                }
+                stmt.close();
+                
+                DashboardStats.studentAdded(gpa);
+            } else {
+                // Stored GPA is needed to adjust the dashboard totals
+                Double oldGpa = findGpa(conn, id);
+                
+                // Update existing student
+                PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE students SET name = ?, gpa = ? WHERE id = ?"
+                );
+                stmt.setString(1, name);
+                stmt.setDouble(2, gpa);
+                stmt.setInt(3, id);
+                int updated = stmt.executeUpdate();
+                stmt.close();
+                
+                if (updated > 0 && oldGpa != null) {
+                    DashboardStats.studentGpaChanged(oldGpa, gpa);
+                }
             }
-            stmt.close();
-        } else {
-            // Update existing student
-            PreparedStatement stmt = conn.prepareStatement(
-                "UPDATE students SET name = ?, gpa = ? WHERE id = ?"
-            );
-            stmt.setString(1, name);
-            stmt.setDouble(2, gpa);
-            stmt.setInt(3, id);
-            stmt.executeUpdate();
-            stmt.close();
-        }
+            return null;
+        });
+    }
+    
+    private static Double findGpa(Connection conn, int id) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement("SELECT gpa FROM students WHERE id = ?");
+        stmt.setInt(1, id);
+        ResultSet rs = stmt.executeQuery();
+        
+        Double gpa = rs.next() ? rs.getDouble("gpa") : null;
+        
+        stmt.close();
+        return gpa;
     }
     
     public static Student findById(int id) throws SQLException {
@@ -152,11 +570,41 @@ class Student {
     }
     
     public void delete() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
-        PreparedStatement stmt = conn.prepareStatement("DELETE FROM students WHERE id = ?");
-        stmt.setInt(1, id);
-        stmt.executeUpdate();
-        stmt.close();
+        DatabaseConnection.inTransaction(conn -> {
+            Double storedGpa = findGpa(conn, id);
+            
+            // Drop the student from every roster they are on
+            PreparedStatement sectionsStmt = conn.prepareStatement("""
+                SELECT ss.section_id FROM section_students ss
+                JOIN class_sections cs ON cs.id = ss.section_id
+                WHERE ss.student_id = ?
+            """);
+            sectionsStmt.setInt(1, id);
+            ResultSet rs = sectionsStmt.executeQuery();
+            List<Integer> sectionIds = new ArrayList<>();
+            while (rs.next()) {
+                sectionIds.add(rs.getInt("section_id"));
+            }
+            sectionsStmt.close();
+            
+            PreparedStatement rosterStmt = conn.prepareStatement("DELETE FROM section_students WHERE student_id = ?");
+            rosterStmt.setInt(1, id);
+            rosterStmt.executeUpdate();
+            rosterStmt.close();
+            
+            PreparedStatement stmt = conn.prepareStatement("DELETE FROM students WHERE id = ?");
+            stmt.setInt(1, id);
+            int deleted = stmt.executeUpdate();
+            stmt.close();
+            
+            if (deleted > 0 && storedGpa != null) {
+                DashboardStats.studentRemoved(storedGpa);
+                for (int sectionId : sectionIds) {
+                    DashboardStats.adjustEnrollment(sectionId, -1);
+                }
+            }
+            return null;
+        });
     }
     
     @Override
@@ -201,32 +649,36 @@ class Teacher {
     
     // Database operations
     public void save() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
-        if (id == 0) {
-            // Insert new teacher
-            PreparedStatement stmt = conn.prepareStatement(
-                "INSERT INTO teachers (name) VALUES (?)",
-                Statement.RETURN_GENERATED_KEYS
-            );
-            stmt.setString(1, name);
-            stmt.executeUpdate();
-            
-            ResultSet keys = stmt.getGeneratedKeys();
-            if (keys.next()) {
-                this.id = keys.getInt(1);
+        DatabaseConnection.inTransaction(conn -> {
+            if (id == 0) {
+                // Insert new teacher
+                PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO teachers (name) VALUES (?)",
+                    Statement.RETURN_GENERATED_KEYS
+                );
+                stmt.setString(1, name);
+                stmt.executeUpdate();
+                
+                ResultSet keys = stmt.getGeneratedKeys();
+                if (keys.next()) {
+                    this.id = keys.getInt(1);
+                }
+                stmt.close();
+                
+                DashboardStats.teacherAdded();
+            } else {
+                // Update existing teacher
+                PreparedStatement stmt = conn.prepareStatement("UPDATE teachers SET name = ? WHERE id = ?");
+                stmt.setString(1, name);
+                stmt.setInt(2, id);
+                stmt.executeUpdate();
+                stmt.close();
             }
-            stmt.close();
-        } else {
-            // Update existing teacher
-            PreparedStatement stmt = conn.prepareStatement("UPDATE teachers SET name = ? WHERE id = ?");
-            stmt.setString(1, name);
-            stmt.setInt(2, id);
-            stmt.executeUpdate();
-            stmt.close();
-        }
-        
-        // Save teacher-section relationships
-        saveTeacherSections();
+            
+            // Save teacher-section relationships
+            saveTeacherSections();
+            return null;
+        });
     }
     
     private void saveTeacherSections() throws SQLException {
@@ -304,11 +756,17 @@ class Teacher {
     }
     
     public void delete() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
-        PreparedStatement stmt = conn.prepareStatement("DELETE FROM teachers WHERE id = ?");
-        stmt.setInt(1, id);
-        stmt.executeUpdate();
-        stmt.close();
+        DatabaseConnection.inTransaction(conn -> {
+            PreparedStatement stmt = conn.prepareStatement("DELETE FROM teachers WHERE id = ?");
+            stmt.setInt(1, id);
+            int deleted = stmt.executeUpdate();
+            stmt.close();
+            
+            if (deleted > 0) {
+                DashboardStats.teacherRemoved();
+            }
+            return null;
+        });
     }
     
     @Override
@@ -353,32 +811,36 @@ class ClassSection {
     
     // Database operations
     public void save() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
-        if (id == 0) {
-            // Insert new section
-            PreparedStatement stmt = conn.prepareStatement(
-                "INSERT INTO class_sections (length) VALUES (?)",
-                Statement.RETURN_GENERATED_KEYS
-            );
-            stmt.setInt(1, length);
-            stmt.executeUpdate();
-            
-            ResultSet keys = stmt.getGeneratedKeys();
-            if (keys.next()) {
-                this.id = keys.getInt(1);
+        DatabaseConnection.inTransaction(conn -> {
+            if (id == 0) {
+                // Insert new section
+                PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO class_sections (length) VALUES (?)",
+                    Statement.RETURN_GENERATED_KEYS
+                );
+                stmt.setInt(1, length);
+                stmt.executeUpdate();
+                
+                ResultSet keys = stmt.getGeneratedKeys();
+                if (keys.next()) {
+                    this.id = keys.getInt(1);
+                }
+                stmt.close();
+                
+                DashboardStats.sectionAdded(id);
+            } else {
+                // Update existing section
+                PreparedStatement stmt = conn.prepareStatement("UPDATE class_sections SET length = ? WHERE id = ?");
+                stmt.setInt(1, length);
+                stmt.setInt(2, id);
+                stmt.executeUpdate();
+                stmt.close();
             }
-            stmt.close();
-        } else {
-            // Update existing section
-            PreparedStatement stmt = conn.prepareStatement("UPDATE class_sections SET length = ? WHERE id = ?");
-            stmt.setInt(1, length);
-            stmt.setInt(2, id);
-            stmt.executeUpdate();
-            stmt.close();
-        }
-        
-        // Save section-student relationships
-        saveSectionStudents();
+            
+            // Save section-student relationships
+            saveSectionStudents();
+            return null;
+        });
     }
     
     private void saveSectionStudents() throws SQLException {
@@ -390,15 +852,162 @@ class ClassSection {
         deleteStmt.close();
         
         // Insert new relationships
+        // Students that no longer exist are skipped
         PreparedStatement insertStmt = conn.prepareStatement(
-            "INSERT INTO section_students (section_id, student_id) VALUES (?, ?)"
+            "INSERT INTO section_students (section_id, student_id) SELECT ?, id FROM students WHERE id = ?"
         );
+        int enrolled = 0;
         for (Student student : students) {
             insertStmt.setInt(1, id);
             insertStmt.setInt(2, student.getId());
-            insertStmt.executeUpdate();
+            enrolled += insertStmt.executeUpdate();
         }
         insertStmt.close();
+        
+        DashboardStats.setEnrollment(id, enrolled);
+    }
+    
+    // Bulk roster operations: set-based SQL, one transaction each
+    private static final int ID_CHUNK_SIZE = 500;
+    
+    public int enrollAll(List<Integer> studentIds) throws SQLException {
+        int enrolled = DatabaseConnection.inTransaction(conn -> {
+            requireExisting(conn, this);
+            int inserted = 0;
+            for (List<Integer> chunk : chunks(studentIds)) {
+                PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT OR IGNORE INTO section_students (section_id, student_id) " +
+                    "SELECT ?, id FROM students WHERE id IN (" + placeholders(chunk.size()) + ")"
+                );
+                stmt.setInt(1, id);
+                bindIds(stmt, 2, chunk);
+                inserted += stmt.executeUpdate();
+                stmt.close();
+            }
+            DashboardStats.adjustEnrollment(id, inserted);
+            return inserted;
+        });
+        loadStudents();
+        return enrolled;
+    }
+    
+    public int dropAll() throws SQLException {
+        int dropped = DatabaseConnection.inTransaction(conn -> {
+            requireExisting(conn, this);
+            PreparedStatement stmt = conn.prepareStatement("DELETE FROM section_students WHERE section_id = ?");
+            stmt.setInt(1, id);
+            int deleted = stmt.executeUpdate();
+            stmt.close();
+            
+            DashboardStats.setEnrollment(id, 0);
+            return deleted;
+        });
+        students.clear();
+        return dropped;
+    }
+    
+    // Moves the given students from one section to another; returns the number moved
+    public static int transfer(ClassSection fromSection, ClassSection toSection, List<Integer> studentIds)
+            throws SQLException {
+        int fromId = fromSection.getId();
+        int toId = toSection.getId();
+        
+        int moved = DatabaseConnection.inTransaction(conn -> {
+            requireExisting(conn, fromSection);
+            requireExisting(conn, toSection);
+            if (fromId == toId) {
+                return 0;
+            }
+            int inserted = 0;
+            int deleted = 0;
+            for (List<Integer> chunk : chunks(studentIds)) {
+                String in = placeholders(chunk.size());
+                
+                PreparedStatement insertStmt = conn.prepareStatement(
+                    "INSERT OR IGNORE INTO section_students (section_id, student_id) " +
+                    "SELECT ?, ss.student_id FROM section_students ss JOIN students s ON s.id = ss.student_id " +
+                    "WHERE ss.section_id = ? AND ss.student_id IN (" + in + ")"
+                );
+                insertStmt.setInt(1, toId);
+                insertStmt.setInt(2, fromId);
+                bindIds(insertStmt, 3, chunk);
+                inserted += insertStmt.executeUpdate();
+                insertStmt.close();
+                
+                PreparedStatement deleteStmt = conn.prepareStatement(
+                    "DELETE FROM section_students WHERE section_id = ? " +
+                    "AND student_id IN (SELECT id FROM students WHERE id IN (" + in + "))"
+                );
+                deleteStmt.setInt(1, fromId);
+                bindIds(deleteStmt, 2, chunk);
+                deleted += deleteStmt.executeUpdate();
+                deleteStmt.close();
+            }
+            DashboardStats.adjustEnrollment(toId, inserted);
+            DashboardStats.adjustEnrollment(fromId, -deleted);
+            return deleted;
+        });
+        fromSection.loadStudents();
+        toSection.loadStudents();
+        return moved;
+    }
+    
+    // Enrolls every student of one section into another; returns the number added
+    public static int copyRoster(ClassSection fromSection, ClassSection toSection) throws SQLException {
+        int fromId = fromSection.getId();
+        int toId = toSection.getId();
+        
+        int copied = DatabaseConnection.inTransaction(conn -> {
+            requireExisting(conn, fromSection);
+            requireExisting(conn, toSection);
+            PreparedStatement stmt = conn.prepareStatement(
+                "INSERT OR IGNORE INTO section_students (section_id, student_id) " +
+                "SELECT ?, ss.student_id FROM section_students ss JOIN students s ON s.id = ss.student_id " +
+                "WHERE ss.section_id = ?"
+            );
+            stmt.setInt(1, toId);
+            stmt.setInt(2, fromId);
+            int inserted = stmt.executeUpdate();
+            stmt.close();
+            
+            DashboardStats.adjustEnrollment(toId, inserted);
+            return inserted;
+        });
+        toSection.loadStudents();
+        return copied;
+    }
+    
+    // Rejects unsaved sections and sections that have been deleted
+    private static void requireExisting(Connection conn, ClassSection section) throws SQLException {
+        if (section.getId() == 0) {
+            throw new SQLException("Section has not been saved");
+        }
+        PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM class_sections WHERE id = ?");
+        stmt.setInt(1, section.getId());
+        boolean exists = stmt.executeQuery().next();
+        stmt.close();
+        
+        if (!exists) {
+            throw new SQLException("Section not found: " + section.getId());
+        }
+    }
+    
+    private static List<List<Integer>> chunks(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += ID_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + ID_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
+    private static void bindIds(PreparedStatement stmt, int firstIndex, List<Integer> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            stmt.setInt(firstIndex + i, ids.get(i));
+        }
     }
     
     public void loadStudents() throws SQLException {
@@ -456,11 +1065,17 @@ class ClassSection {
     }
     
     public void delete() throws SQLException {
-        Connection conn = DatabaseConnection.getConnection();
-        PreparedStatement stmt = conn.prepareStatement("DELETE FROM class_sections WHERE id = ?");
-        stmt.setInt(1, id);
-        stmt.executeUpdate();
-        stmt.close();
+        DatabaseConnection.inTransaction(conn -> {
+            PreparedStatement stmt = conn.prepareStatement("DELETE FROM class_sections WHERE id = ?");
+            stmt.setInt(1, id);
+            int deleted = stmt.executeUpdate();
+            stmt.close();
+            
+            if (deleted > 0) {
+                DashboardStats.sectionRemoved(id);
+            }
+            return null;
+        });
     }
     
     @Override
@@ -469,6 +1084,504 @@ class ClassSection {
     }
 }
 
+// Throughput benchmark: cohort transfer via per-object saves vs. set-based SQL.
+// Run with: java -cp <sqlite-jdbc.jar>:. RosterBenchmark [cohortSize ...]
+class RosterBenchmark {
+    private static final int WARMUP_TRIALS = 3;
+    private static final int MEASURED_TRIALS = 7;
+    
+    interface TransferPath {
+        void transfer(ClassSection from, ClassSection to, List<Integer> cohort) throws SQLException;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        java.nio.file.Path dbFile = java.nio.file.Files.createTempFile("roster-benchmark", ".db");
+        try {
+            DatabaseConnection.setUrl("jdbc:sqlite:" + dbFile);
+            DatabaseConnection.initializeDatabase();
+            
+            int[] cohortSizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] {100, 1000, 5000};
+            int maxSize = Arrays.stream(cohortSizes).max().orElse(0);
+            
+            List<Integer> ids = new ArrayList<>();
+            DatabaseConnection.inTransaction(conn -> {
+                for (int i = 0; i < maxSize; i++) {
+                    Student student = new Student("Student " + i, 2.0 + (i % 20) / 10.0);
+                    student.save();
+                    ids.add(student.getId());
+                }
+                return null;
+            });
+            
+            ClassSection from = new ClassSection(50);
+            ClassSection to = new ClassSection(50);
+            from.save();
+            to.save();
+            
+            TransferPath perObject = (f, t, cohort) -> transferPerObject(f.getId(), t.getId(), cohort);
+            TransferPath setBased = ClassSection::transfer;
+            
+            System.out.printf("Median of %d trials after %d warm-up trials per path and cohort size%n",
+                MEASURED_TRIALS, WARMUP_TRIALS);
+            System.out.printf("%-10s %15s %15s %10s%n", "cohort", "per-object/s", "set-based/s", "speedup");
+            for (int size : cohortSizes) {
+                List<Integer> cohort = ids.subList(0, size);
+                double perObjectRate = medianRate(perObject, from, to, cohort);
+                double setBasedRate = medianRate(setBased, from, to, cohort);
+                System.out.printf("%-10d %15.0f %15.0f %9.1fx%n",
+                    size, perObjectRate, setBasedRate, setBasedRate / perObjectRate);
+            }
+        } finally {
+            DatabaseConnection.setUrl("jdbc:sqlite:school.db");
+            java.nio.file.Files.deleteIfExists(dbFile);
+        }
+    }
+    
+    // Students moved per second, median over the measured trials
+    private static double medianRate(TransferPath path, ClassSection from, ClassSection to, List<Integer> cohort)
+            throws SQLException {
+        for (int i = 0; i < WARMUP_TRIALS; i++) {
+            reset(from, to, cohort);
+            path.transfer(from, to, cohort);
+        }
+        
+        double[] rates = new double[MEASURED_TRIALS];
+        for (int i = 0; i < MEASURED_TRIALS; i++) {
+            reset(from, to, cohort);
+            long start = System.nanoTime();
+            path.transfer(from, to, cohort);
+            rates[i] = cohort.size() / ((System.nanoTime() - start) / 1e9);
+        }
+        Arrays.sort(rates);
+        return rates[MEASURED_TRIALS / 2];
+    }
+    
+    // Mirrors the interactive path: load each student, edit both rosters, save both sections
+    private static void transferPerObject(int fromId, int toId, List<Integer> studentIds) throws SQLException {
+        ClassSection from = ClassSection.findById(fromId);
+        ClassSection to = ClassSection.findById(toId);
+        for (int studentId : studentIds) {
+            Student student = Student.findById(studentId);
+            to.addStudent(student);
+            from.getStudents().removeIf(s -> s.getId() == studentId);
+        }
+        to.save();
+        from.save();
+    }
+    
+    private static void reset(ClassSection from, ClassSection to, List<Integer> cohort) throws SQLException {
+        from.dropAll();
+        to.dropAll();
+        from.enrollAll(cohort);
+    }
+}
+
+// Ids of the rows created by SyntheticDataGenerator
+record GeneratedSchool(List<Integer> studentIds, List<Integer> teacherIds, List<Integer> sectionIds) {}
+
+// Seeded generator for realistic test schools. The same seed and sizes always
+// produce the same names, GPAs, section lengths and rosters.
+class SyntheticDataGenerator {
+    private static final String[] FIRST_NAMES = {
+        "Ava", "Liam", "Olivia", "Noah", "Emma", "Mateo", "Sophia", "Elijah", "Isabella", "Lucas",
+        "Mia", "Aarav", "Amelia", "Kenji", "Harper", "Diego", "Priya", "Omar", "Chloe", "Wei"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Patel", "Nguyen", "Johnson", "Kim", "Martinez", "Brown", "Okafor", "Lee",
+        "Hernandez", "Singh", "Williams", "Lopez", "Chen", "Davis", "Rossi", "Ali", "Miller", "Tanaka"
+    };
+    private static final int[] SECTION_LENGTHS = {45, 50, 60, 75, 90};
+    
+    private final long seed;
+    private final int studentCount;
+    private final int teacherCount;
+    private final int sectionCount;
+    private final int meanSectionSize;
+    
+    public SyntheticDataGenerator(long seed, int studentCount, int teacherCount, int sectionCount, int meanSectionSize) {
+        if (studentCount < 0 || teacherCount < 0 || sectionCount < 0 || meanSectionSize < 0) {
+            throw new IllegalArgumentException("student, teacher, section and section size counts must not be negative");
+        }
+        this.seed = seed;
+        this.studentCount = studentCount;
+        this.teacherCount = teacherCount;
+        this.sectionCount = sectionCount;
+        this.meanSectionSize = meanSectionSize;
+    }
+    
+    // Writes the whole school in one transaction using batched inserts
+    public GeneratedSchool generate() throws SQLException {
+        Random random = new Random(seed);
+        
+        GeneratedSchool school = DatabaseConnection.inTransaction(conn -> {
+            List<Integer> studentIds = insertStudents(conn, random);
+            List<Integer> teacherIds = insertTeachers(conn, random);
+            List<Integer> sectionIds = insertSections(conn, random);
+            assignTeachers(conn, random, teacherIds, sectionIds);
+            enrollStudents(conn, random, studentIds, sectionIds);
+            return new GeneratedSchool(studentIds, teacherIds, sectionIds);
+        });
+        
+        // Batched inserts bypass the per-row hooks, so recompute the dashboard once
+        DashboardStats.rebuild();
+        return school;
+    }
+    
+    private List<Integer> insertStudents(Connection conn, Random random) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement("INSERT INTO students (name, gpa) VALUES (?, ?)");
+        for (int i = 0; i < studentCount; i++) {
+            // GPAs cluster around 3.0, clamped to the 0.0-4.0 scale
+            double gpa = Math.max(0.0, Math.min(4.0, 3.0 + random.nextGaussian() * 0.5));
+            stmt.setString(1, randomName(random));
+            stmt.setDouble(2, Math.round(gpa * 100) / 100.0);
+            stmt.addBatch();
+        }
+        stmt.executeBatch();
+        stmt.close();
+        return lastInsertedIds(conn, "students", studentCount);
+    }
+    
+    private List<Integer> insertTeachers(Connection conn, Random random) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement("INSERT INTO teachers (name) VALUES (?)");
+        for (int i = 0; i < teacherCount; i++) {
+            stmt.setString(1, randomName(random));
+            stmt.addBatch();
+        }
+        stmt.executeBatch();
+        stmt.close();
+        return lastInsertedIds(conn, "teachers", teacherCount);
+    }
+    
+    private List<Integer> insertSections(Connection conn, Random random) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement("INSERT INTO class_sections (length) VALUES (?)");
+        for (int i = 0; i < sectionCount; i++) {
+            stmt.setInt(1, SECTION_LENGTHS[random.nextInt(SECTION_LENGTHS.length)]);
+            stmt.addBatch();
+        }
+        stmt.executeBatch();
+        stmt.close();
+        return lastInsertedIds(conn, "class_sections", sectionCount);
+    }
+    
+    private void assignTeachers(Connection conn, Random random, List<Integer> teacherIds, List<Integer> sectionIds)
+            throws SQLException {
+        if (teacherIds.isEmpty()) {
+            return;
+        }
+        PreparedStatement stmt = conn.prepareStatement(
+            "INSERT INTO teacher_sections (teacher_id, section_id) VALUES (?, ?)"
+        );
+        for (int sectionId : sectionIds) {
+            stmt.setInt(1, teacherIds.get(random.nextInt(teacherIds.size())));
+            stmt.setInt(2, sectionId);
+            stmt.addBatch();
+        }
+        stmt.executeBatch();
+        stmt.close();
+    }
+    
+    // Section sizes are normally distributed around meanSectionSize (stddev = mean / 4)
+    private void enrollStudents(Connection conn, Random random, List<Integer> studentIds, List<Integer> sectionIds)
+            throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(
+            "INSERT INTO section_students (section_id, student_id) VALUES (?, ?)"
+        );
+        List<Integer> pool = new ArrayList<>(studentIds);
+        for (int sectionId : sectionIds) {
+            double size = meanSectionSize + random.nextGaussian() * meanSectionSize / 4.0;
+            int rosterSize = (int) Math.max(0, Math.min(pool.size(), Math.round(size)));
+            
+            // Partial Fisher-Yates shuffle picks rosterSize distinct students
+            for (int i = 0; i < rosterSize; i++) {
+                Collections.swap(pool, i, i + random.nextInt(pool.size() - i));
+            }
+            for (int i = 0; i < rosterSize; i++) {
+                stmt.setInt(1, sectionId);
+                stmt.setInt(2, pool.get(i));
+                stmt.addBatch();
+            }
+        }
+        stmt.executeBatch();
+        stmt.close();
+    }
+    
+    // Rows inserted in the current transaction are the newest ones in the table
+    private static List<Integer> lastInsertedIds(Connection conn, String table, int count) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(
+            "SELECT id FROM " + table + " ORDER BY id DESC LIMIT ?"
+        );
+        stmt.setInt(1, count);
+        ResultSet rs = stmt.executeQuery();
+        
+        List<Integer> ids = new ArrayList<>();
+        while (rs.next()) {
+            ids.add(rs.getInt("id"));
+        }
+        
+        stmt.close();
+        Collections.reverse(ids);
+        return ids;
+    }
+    
+    private static String randomName(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+}
+
+// Replays a weighted mix of operations against a generated school from many threads
+// at a fixed target rate, then reports throughput and p50/p99 latency per operation.
+// Latency is measured from each operation's scheduled start, so stalls are not hidden.
+// Run with: java -cp <sqlite-jdbc.jar>:. LoadDriver [key=value ...]
+class LoadDriver {
+    enum Operation { LOOKUP, ENROLL, ROSTER, REPORT }
+    
+    // Latencies and error counts from one worker, plus the slots it never issued
+    private record WorkerResult(Map<Operation, List<Long>> latencies, Map<Operation, Long> errors, long missed) {}
+    
+    private final GeneratedSchool school;
+    private final int threads;
+    private final double targetRate;
+    private final Map<Operation, Integer> mix;
+    private final long seed;
+    
+    public LoadDriver(GeneratedSchool school, int threads, double targetRate, Map<Operation, Integer> mix, long seed) {
+        if (threads <= 0 || targetRate <= 0) {
+            throw new IllegalArgumentException("threads and rate must be greater than 0");
+        }
+        if (threads * 1e9 / targetRate < 1) {
+            throw new IllegalArgumentException("rate must be at most one operation per nanosecond per thread");
+        }
+        if (mix.values().stream().anyMatch(weight -> weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix weights must be non-negative and sum to more than 0");
+        }
+        boolean needsStudents = mix.getOrDefault(Operation.LOOKUP, 0) > 0 || mix.getOrDefault(Operation.ENROLL, 0) > 0;
+        boolean needsSections = mix.getOrDefault(Operation.ENROLL, 0) > 0 || mix.getOrDefault(Operation.ROSTER, 0) > 0;
+        if (needsStudents && school.studentIds().isEmpty()) {
+            throw new IllegalArgumentException("mix needs students but the school has none");
+        }
+        if (needsSections && school.sectionIds().isEmpty()) {
+            throw new IllegalArgumentException("mix needs sections but the school has none");
+        }
+        
+        this.school = school;
+        this.threads = threads;
+        this.targetRate = targetRate;
+        this.mix = mix;
+        this.seed = seed;
+    }
+    
+    public void run(long durationSeconds) throws Exception {
+        long intervalNanos = (long) (threads * 1e9 / targetRate);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Map<Operation, List<Long>> latencies = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        long missed = 0;
+        try {
+            List<Future<WorkerResult>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long firstStart = startNanos + t * intervalNanos / threads;
+                Random random = new Random(seed + t);
+                futures.add(executor.submit(() -> runWorker(random, firstStart, intervalNanos, endNanos)));
+            }
+            
+            for (Future<WorkerResult> future : futures) {
+                WorkerResult result = future.get();
+                result.latencies().forEach((op, samples) ->
+                    latencies.computeIfAbsent(op, k -> new ArrayList<>()).addAll(samples));
+                result.errors().forEach((op, count) -> errors.merge(op, count, Long::sum));
+                missed += result.missed();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        printReport(latencies, errors, missed, elapsedSeconds);
+    }
+    
+    // Stops at the wall-clock deadline; slots it fell too far behind to issue by then are missed
+    private WorkerResult runWorker(Random random, long firstStart, long intervalNanos, long endNanos)
+            throws SQLException {
+        Map<Operation, List<Long>> samples = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        
+        long scheduled = firstStart;
+        try {
+            for (; scheduled < endNanos && System.nanoTime() < endNanos; scheduled += intervalNanos) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                
+                Operation op = pickOperation(random, totalWeight);
+                try {
+                    execute(op, random);
+                    samples.computeIfAbsent(op, k -> new ArrayList<>()).add(System.nanoTime() - scheduled);
+                } catch (SQLException | RuntimeException e) {
+                    errors.merge(op, 1L, Long::sum);
+                }
+            }
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+        
+        long missed = scheduled < endNanos ? (endNanos - scheduled + intervalNanos - 1) / intervalNanos : 0;
+        return new WorkerResult(samples, errors, missed);
+    }
+    
+    private Operation pickOperation(Random random, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.LOOKUP;
+    }
+    
+    private void execute(Operation op, Random random) throws SQLException {
+        switch (op) {
+            case LOOKUP -> Student.findById(randomId(random, school.studentIds()));
+            case ENROLL -> new ClassSection(randomId(random, school.sectionIds()), 0)
+                .enrollAll(List.of(randomId(random, school.studentIds())));
+            case ROSTER -> ClassSection.findById(randomId(random, school.sectionIds()));
+            case REPORT -> {
+                DashboardStats.getStudentCount();
+                DashboardStats.getAverageGpa();
+                DashboardStats.getEnrollments();
+            }
+        }
+    }
+    
+    private static int randomId(Random random, List<Integer> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+    
+    private void printReport(Map<Operation, List<Long>> latencies, Map<Operation, Long> errors, long missed,
+                             double elapsedSeconds) {
+        System.out.printf("%-8s %10s %10s %12s %12s %8s%n", "op", "count", "ops/s", "p50 (ms)", "p99 (ms)", "errors");
+        long total = 0;
+        for (Operation op : Operation.values()) {
+            List<Long> samples = latencies.getOrDefault(op, List.of());
+            if (samples.isEmpty() && errors.getOrDefault(op, 0L) == 0) {
+                continue;
+            }
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            total += sorted.length;
+            System.out.printf("%-8s %10d %10.1f %12.3f %12.3f %8d%n",
+                op, sorted.length, sorted.length / elapsedSeconds,
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, errors.getOrDefault(op, 0L));
+        }
+        System.out.printf("%-8s %10d %10.1f%n", "TOTAL", total, total / elapsedSeconds);
+        System.out.printf("%-8s %10d  (scheduled slots not issued before the deadline)%n", "MISSED", missed);
+    }
+    
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+    
+    private static final String USAGE =
+        "Usage: LoadDriver [db=<file>] [seed=42] [students=10000] [teachers=400] [sections=1200] " +
+        "[sectionSize=25] [threads=8] [rate=500] [seconds=10] [mix=lookup:50,enroll:20,roster:20,report:10]";
+    
+    public static void main(String[] args) throws Exception {
+        java.nio.file.Path dbFile = null;
+        try {
+            Map<String, String> options = new HashMap<>();
+            for (String arg : args) {
+                String[] parts = arg.split("=", 2);
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("expected key=value but got '" + arg + "'");
+                }
+                options.put(parts[0], parts[1]);
+            }
+            
+            long seed = longOption(options, "seed", 42);
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                seed,
+                (int) longOption(options, "students", 10000),
+                (int) longOption(options, "teachers", 400),
+                (int) longOption(options, "sections", 1200),
+                (int) longOption(options, "sectionSize", 25)
+            );
+            int threads = (int) longOption(options, "threads", 8);
+            double rate = longOption(options, "rate", 500);
+            long seconds = longOption(options, "seconds", 10);
+            Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", "lookup:50,enroll:20,roster:20,report:10"));
+            
+            if (options.containsKey("db")) {
+                DatabaseConnection.setUrl("jdbc:sqlite:" + options.get("db"));
+            } else {
+                dbFile = java.nio.file.Files.createTempFile("load-test", ".db");
+                DatabaseConnection.setUrl("jdbc:sqlite:" + dbFile);
+            }
+            DatabaseConnection.initializeDatabase();
+            
+            long start = System.nanoTime();
+            GeneratedSchool school = generator.generate();
+            System.out.printf("Generated %d students, %d teachers, %d sections in %.2f s%n",
+                school.studentIds().size(), school.teacherIds().size(), school.sectionIds().size(),
+                (System.nanoTime() - start) / 1e9);
+            
+            new LoadDriver(school, threads, rate, mix, seed).run(seconds);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Usage error: " + e.getMessage());
+            System.err.println(USAGE);
+        } finally {
+            DatabaseConnection.setUrl("jdbc:sqlite:school.db");
+            if (dbFile != null) {
+                java.nio.file.Files.deleteIfExists(dbFile);
+            }
+        }
+    }
+    
+    private static long longOption(Map<String, String> options, String key, long defaultValue) {
+        String value = options.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer but got '" + value + "'");
+        }
+    }
+    
+    // Parses e.g. "lookup:50,enroll:20"; operations left out get weight 0
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("mix entries must look like op:weight but got '" + entry + "'");
+            }
+            Operation op = Arrays.stream(Operation.values())
+                .filter(candidate -> candidate.name().equalsIgnoreCase(parts[0].trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "unknown mix operation '" + parts[0].trim() + "' (expected lookup, enroll, roster or report)"));
+            try {
+                mix.put(op, Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("mix weight must be an integer but got '" + parts[1] + "'");
+            }
+        }
+        return mix;
+    }
+}
+
 // Main School Manager class
 public class SchoolManager {
     private Scanner scanner;
@@ -492,7 +1605,8 @@ public class SchoolManager {
                     case 2 -> manageTeachers();
                     case 3 -> manageSections();
                     case 4 -> viewReports();
-                    case 5 -> {
+                    case 5 -> rebuildReports();
+                    case 6 -> {
                         System.out.println("Goodbye!");
                         return;
                     }
@@ -510,7 +1624,8 @@ public class SchoolManager {
         System.out.println("2. Manage Teachers");
         System.out.println("3. Manage Class Sections");
         System.out.println("4. View Reports");
-        System.out.println("5. Exit");
+        System.out.println("5. Rebuild Report Summary");
+        System.out.println("6. Exit");
         System.out.print("Enter your choice: ");
     }
     
@@ -697,17 +1812,21 @@ public class SchoolManager {
         }
     }
     
-    private void viewReports() throws SQLException {
+    private void viewReports() {
         System.out.println("\n=== Reports ===");
-        System.out.println("Total Students: " + Student.findAll().size());
-        System.out.println("Total Teachers: " + Teacher.findAll().size());
-        System.out.println("Total Sections: " + ClassSection.findAll().size());
+        System.out.println("Total Students: " + DashboardStats.getStudentCount());
+        System.out.println("Total Teachers: " + DashboardStats.getTeacherCount());
+        System.out.println("Total Sections: " + DashboardStats.getSectionCount());
+        System.out.printf("Average GPA: %.2f\n", DashboardStats.getAverageGpa());
         
-        // Average GPA
-        List<Student> students = Student.findAll();
-        double totalGPA = students.stream().mapToDouble(Student::getGpa).sum();
-        double avgGPA = students.isEmpty() ? 0 : totalGPA / students.size();
-        System.out.printf("Average GPA: %.2f\n", avgGPA);
+        System.out.println("Enrollment by Section:");
+        DashboardStats.getEnrollments().forEach((sectionId, count) ->
+            System.out.println("  Section " + sectionId + ": " + count + " students"));
+    }
+    
+    private void rebuildReports() throws SQLException {
+        DashboardStats.rebuild();
+        System.out.println("Report summary rebuilt from the base tables.");
     }
     
     public static void main(String[] args) {